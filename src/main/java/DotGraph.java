@@ -1,8 +1,13 @@
+import org.jgrapht.Graph;
+import org.jgrapht.graph.AsUnmodifiableGraph;
 import org.jgrapht.graph.DefaultDirectedGraph;
 import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.MaskSubgraph;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 public class DotGraph {
     private static DefaultDirectedGraph<String, DefaultEdge> graph;
@@ -44,13 +49,18 @@ public class DotGraph {
     }
 
     public static String graphtoString(){
+        return graphtoString(nodes, graph.edgeSet(), graph);
+    }
+
+    //shared by the main graph and subgraph views
+    private static String graphtoString(Collection<String> nodeList, Collection<DefaultEdge> edgeList, Graph<String, DefaultEdge> g){
         int nodeCount = 0;
         int edgeCount = 0;
         StringBuilder output = new StringBuilder();
 
         System.out.println("Node List: ");
         output.append("Node List: \n");
-        for (String node : nodes) {
+        for (String node : nodeList) {
             System.out.println(node + ";");
             output.append(node).append(";\n");
             nodeCount++;
@@ -58,9 +68,9 @@ public class DotGraph {
         System.out.println("Total node count: " + nodeCount);
         System.out.println("\nEdge List: ");
         output.append("Edge List: \n");
-        for (DefaultEdge edge : graph.edgeSet()) {
-            String source = graph.getEdgeSource(edge);
-            String dest = graph.getEdgeTarget(edge);
+        for (DefaultEdge edge : edgeList) {
+            String source = g.getEdgeSource(edge);
+            String dest = g.getEdgeTarget(edge);
             System.out.println(source + " -> " + dest + ";");
             output.append(source).append(" -> ").append(dest).append(";\n");
             edgeCount++;
@@ -70,7 +80,10 @@ public class DotGraph {
     }
 
     public static void outputGraph(String outputPath) {
-        String output = DotGraph.graphtoString();
+        writeGraph(DotGraph.graphtoString(), outputPath);
+    }
+
+    private static void writeGraph(String output, String outputPath) {
         try(FileWriter writer = new FileWriter(outputPath)){
             writer.write(output);
             System.out.println("Output successfully written to " + outputPath);
@@ -113,14 +126,19 @@ public class DotGraph {
     }
 
     public static void outputDOTGraph(String filepath) throws IOException {
+        outputDOTGraph(filepath, nodes, graph.edgeSet(), graph);
+    }
+
+    //shared by the main graph and subgraph views
+    private static void outputDOTGraph(String filepath, Collection<String> nodeList, Collection<DefaultEdge> edgeList, Graph<String, DefaultEdge> g) throws IOException {
         try (FileWriter fileWriter = new FileWriter(filepath)) {
             fileWriter.write("digraph G {\n");
-            for (String node : nodes) {
+            for (String node : nodeList) {
                 fileWriter.write("    " + node + ";\n");
             }
-            for (DefaultEdge edge : graph.edgeSet()) {
-                String source = graph.getEdgeSource(edge);
-                String dest = graph.getEdgeTarget(edge);
+            for (DefaultEdge edge : edgeList) {
+                String source = g.getEdgeSource(edge);
+                String dest = g.getEdgeTarget(edge);
                 fileWriter.write("    " + source + " -> " + dest + ";\n");
             }
             fileWriter.write("}\n");
@@ -204,6 +222,167 @@ public class DotGraph {
         }
     }
 
+    public enum Direction {
+        IN, OUT, BOTH
+    }
+
+    //read-only view over the nodes that match the predicate (nothing is copied)
+    public static GraphView subgraph(Predicate<String> keep) {
+        if(keep == null){
+            throw new IllegalArgumentException("Node predicate must not be null");
+        }
+        return new GraphView(graph, new MaskSubgraph<>(graph, node -> !keep.test(node), edge -> false), null);
+    }
+
+    //read-only view over the given nodes; counts and exports only visit these nodes and their edges.
+    //The set is copied, so later changes to it do not affect the view
+    public static GraphView subgraph(Set<String> nodeSet) {
+        if(nodeSet == null){
+            throw new IllegalArgumentException("Node set must not be null");
+        }
+        return nodeSetView(new LinkedHashSet<>(nodeSet));
+    }
+
+    private static GraphView nodeSetView(Set<String> nodeSet) {
+        return new GraphView(graph, new MaskSubgraph<>(graph, node -> !nodeSet.contains(node), edge -> false), nodeSet);
+    }
+
+    //read-only view over every node within k hops of center, found with a bounded BFS
+    public static GraphView neighborhood(String center, int k, Direction direction) {
+        if(!graph.containsVertex(center)){
+            throw new IllegalArgumentException("Node " + center + " does not exist in the graph");
+        }
+        if(k < 0){
+            throw new IllegalArgumentException("Hop count must not be negative: " + k);
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("Direction must not be null");
+        }
+        //insertion order keeps exports in BFS order
+        Set<String> reached = new LinkedHashSet<>();
+        Deque<String> frontier = new ArrayDeque<>();
+        reached.add(center);
+        frontier.add(center);
+
+        //expand one full level per hop so the search stops after k levels
+        for (int hop = 0; hop < k && !frontier.isEmpty(); hop++) {
+            int levelSize = frontier.size();
+            for (int i = 0; i < levelSize; i++) {
+                String currNode = frontier.poll();
+                if (direction != Direction.IN) {
+                    for (DefaultEdge edge : graph.outgoingEdgesOf(currNode)) {
+                        String targetNode = graph.getEdgeTarget(edge);
+                        if (reached.add(targetNode)) {
+                            frontier.add(targetNode);
+                        }
+                    }
+                }
+                if (direction != Direction.OUT) {
+                    for (DefaultEdge edge : graph.incomingEdgesOf(currNode)) {
+                        String sourceNode = graph.getEdgeSource(edge);
+                        if (reached.add(sourceNode)) {
+                            frontier.add(sourceNode);
+                        }
+                    }
+                }
+            }
+        }
+        return nodeSetView(reached);
+    }
+
+    //Read-only graph view; supports the same search and output calls as the main graph
+    //and follows later edits to the graph it was created from (until it is materialized)
+    public static class GraphView {
+        private final Graph<String, DefaultEdge> base;
+        //masked graph, only used for lookups during searches
+        private final Graph<String, DefaultEdge> view;
+        //visible nodes, or null when they can only be found by filtering the base graph
+        private final Set<String> nodeSet;
+
+        private GraphView(Graph<String, DefaultEdge> base, Graph<String, DefaultEdge> view, Set<String> nodeSet) {
+            this.base = base;
+            this.view = view;
+            this.nodeSet = nodeSet;
+        }
+
+        private List<String> visibleNodes() {
+            if (nodeSet == null) {
+                return new ArrayList<>(view.vertexSet());
+            }
+            List<String> visible = new ArrayList<>(nodeSet.size());
+            for (String node : nodeSet) {
+                if (base.containsVertex(node)) {
+                    visible.add(node);
+                }
+            }
+            return visible;
+        }
+
+        //edges between visible nodes, found from each visible node's outgoing edges
+        private List<DefaultEdge> visibleEdges(List<String> visible) {
+            if (nodeSet == null) {
+                return new ArrayList<>(view.edgeSet());
+            }
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (String node : visible) {
+                for (DefaultEdge edge : base.outgoingEdgesOf(node)) {
+                    if (nodeSet.contains(base.getEdgeTarget(edge))) {
+                        edges.add(edge);
+                    }
+                }
+            }
+            return edges;
+        }
+
+        public Path GraphSearch(String src, String dst, Algorithm algo) {
+            return DotGraph.GraphSearch(view, src, dst, algo, new SearchOptions()).getPath();
+        }
+
+        public SearchResult GraphSearch(String src, String dst, Algorithm algo, SearchOptions options) {
+            return DotGraph.GraphSearch(view, src, dst, algo, options);
+        }
+
+        public String graphtoString() {
+            List<String> visible = visibleNodes();
+            return DotGraph.graphtoString(visible, visibleEdges(visible), base);
+        }
+
+        public void outputGraph(String outputPath) {
+            writeGraph(graphtoString(), outputPath);
+        }
+
+        public void outputDOTGraph(String filepath) throws IOException {
+            List<String> visible = visibleNodes();
+            DotGraph.outputDOTGraph(filepath, visible, visibleEdges(visible), base);
+        }
+
+        public int getNodes() {
+            return visibleNodes().size();
+        }
+
+        public int getEdges() {
+            return visibleEdges(visibleNodes()).size();
+        }
+
+        public boolean containsNode(String label) {
+            return view.containsVertex(label);
+        }
+
+        //copies the visible nodes and edges into a standalone graph that no longer tracks the main graph
+        public GraphView materialize() {
+            DefaultDirectedGraph<String, DefaultEdge> copy = new DefaultDirectedGraph<>(DefaultEdge.class);
+            List<String> visible = visibleNodes();
+            for (String node : visible) {
+                copy.addVertex(node);
+            }
+            for (DefaultEdge edge : visibleEdges(visible)) {
+                copy.addEdge(base.getEdgeSource(edge), base.getEdgeTarget(edge));
+            }
+            Graph<String, DefaultEdge> readOnly = new AsUnmodifiableGraph<>(copy);
+            return new GraphView(readOnly, readOnly, null);
+        }
+    }
+
     public static class Path{
        List<String> nodes;
         
@@ -214,12 +393,12 @@ public class DotGraph {
            return String.join("->", nodes);
        }
        public String randomToString(){
-           String result = "Path{nodes=[";
+           StringBuilder result = new StringBuilder("Path{nodes=[");
            for(int i = 0; i < nodes.size()-1; i++){
-               result += "Node{" + nodes.get(i) + "},";
+               result.append("Node{").append(nodes.get(i)).append("},");
            }
-           result += "Node{" + nodes.get(nodes.size()-1) + "}]}";
-           return result;
+           result.append("Node{").append(nodes.get(nodes.size()-1)).append("}]}");
+           return result.toString();
        }
     }
 
@@ -228,18 +407,140 @@ public class DotGraph {
         BFS, DFS, Random
     }
 
+    public enum SearchStatus {
+        FOUND, NOT_FOUND, TIMED_OUT, EXPANSION_LIMIT, CANCELLED
+    }
+
+    //Shared flag another thread can set to stop a running search
+    public static class CancellationToken {
+        private volatile boolean cancelled;
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    //Limits for a single search; a fresh instance places no limits on the search
+    public static class SearchOptions {
+        //BFS/DFS only read the clock on every 64th expansion to keep the check cheap
+        static final int CLOCK_CHECK_MASK = 63;
+
+        private boolean hasDeadline;
+        private long deadlineNanos;
+        private int maxExpansions = Integer.MAX_VALUE;
+        private CancellationToken cancellation;
+
+        //deadline in System.nanoTime() terms, so several searches can share one request deadline
+        public SearchOptions withDeadline(long deadlineNanos) {
+            this.hasDeadline = true;
+            this.deadlineNanos = deadlineNanos;
+            return this;
+        }
+
+        public SearchOptions withTimeout(long timeoutMillis) {
+            return withDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        }
+
+        public SearchOptions withMaxExpansions(int maxExpansions) {
+            if(maxExpansions < 0){
+                throw new IllegalArgumentException("Maximum expansions must not be negative: " + maxExpansions);
+            }
+            this.maxExpansions = maxExpansions;
+            return this;
+        }
+
+        public SearchOptions withCancellation(CancellationToken cancellation) {
+            this.cancellation = cancellation;
+            return this;
+        }
+
+        boolean isBounded() {
+            return hasDeadline || maxExpansions != Integer.MAX_VALUE || cancellation != null;
+        }
+
+        //returns the limit that stops the search, or null if it may expand another node;
+        //the clock is read when expansions & clockCheckMask is 0 (pass 0 to read it every time)
+        SearchStatus limitReached(int expansions, int clockCheckMask) {
+            if (cancellation != null && cancellation.isCancelled()) {
+                return SearchStatus.CANCELLED;
+            }
+            if (expansions >= maxExpansions) {
+                return SearchStatus.EXPANSION_LIMIT;
+            }
+            if (hasDeadline && (expansions & clockCheckMask) == 0
+                    && System.nanoTime() - deadlineNanos >= 0) {
+                return SearchStatus.TIMED_OUT;
+            }
+            return null;
+        }
+    }
+
+    //Outcome of a search: the full path when FOUND, the longest partial path when a limit was hit
+    public static class SearchResult {
+        private final SearchStatus status;
+        private final Path path;
+        private final int nodesExplored;
+        private final int expansions;
+
+        SearchResult(SearchStatus status, Path path, int nodesExplored, int expansions) {
+            this.status = status;
+            this.path = path;
+            this.nodesExplored = nodesExplored;
+            this.expansions = expansions;
+        }
+
+        public SearchStatus getStatus() {
+            return status;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        //distinct nodes whose neighbors were looked at
+        public int getNodesExplored() {
+            return nodesExplored;
+        }
+
+        //work counted against the expansion limit: one per expanded node for BFS/DFS,
+        //one per step for the random walk (which can revisit nodes)
+        public int getExpansions() {
+            return expansions;
+        }
+
+        public boolean isFound() {
+            return status == SearchStatus.FOUND;
+        }
+    }
+
     //Interface for strategy design pattern
     interface TraverseStrategy {
-        Path traverse(String src, String dst);
+        SearchResult traverse(Graph<String, DefaultEdge> g, String src, String dst, SearchOptions options);
     }
 
     //Context Class for strategy design pattern
     public static Path GraphSearch(String src, String dst, Algorithm algo) {
-        if(!graph.containsVertex(src)){ //if src does not exist
+        return GraphSearch(graph, src, dst, algo, new SearchOptions()).getPath();
+    }
+
+    public static SearchResult GraphSearch(String src, String dst, Algorithm algo, SearchOptions options) {
+        return GraphSearch(graph, src, dst, algo, options);
+    }
+
+    //shared by the main graph and subgraph views
+    private static SearchResult GraphSearch(Graph<String, DefaultEdge> g, String src, String dst, Algorithm algo, SearchOptions options) {
+        if(options == null){
+            throw new IllegalArgumentException("Search options must not be null");
+        }
+        if(!g.containsVertex(src)){ //if src does not exist
             System.out.println("Source node '" + src + "' does not exist");
             throw new IllegalArgumentException("Source node '" + src + "' does not exist in the graph");
         }
-        if(!graph.containsVertex(dst)){ //if dst does not exist
+        if(!g.containsVertex(dst)){ //if dst does not exist
             System.out.println("Destination node '" + dst + "' does not exist");
             throw new IllegalArgumentException("Destination node '" + dst + "' does not exist in the graph");
         }
@@ -260,20 +561,22 @@ public class DotGraph {
         else
         {
             System.out.println("\nError: Invalid algo!");
-            return null;
+            return new SearchResult(SearchStatus.NOT_FOUND, null, 0, 0);
         }
-        return traverseStrategy.traverse(src, dst);
+        return traverseStrategy.traverse(g, src, dst, options);
     }
 
     //abstract class that defines the template method
     //concrete strategy for strategy design pattern
     abstract static class pathTraversalTemplate implements TraverseStrategy {
         //Template Method
-        public Path traverse(String src, String dst){
+        public SearchResult traverse(Graph<String, DefaultEdge> g, String src, String dst, SearchOptions options){
             Path path = new Path();
             createLists(); //Create Queue/Stack
             Set<String> visited = new HashSet<>();
             List<String> startPath = new ArrayList<>();
+            List<String> bestPath = startPath;
+            int explored = 0;
 
             startPath.add(src);
             addPath(startPath);
@@ -284,12 +587,21 @@ public class DotGraph {
                 if (currNode.equals(dst)) {
                     path.nodes = new ArrayList<>(currPath);
                     System.out.println("Path Found: " + path.toString());
-                    return path;
+                    return new SearchResult(SearchStatus.FOUND, path, explored, explored);
                 }
                 if (!visited.contains(currNode)) {
+                    //check limits before each expansion
+                    SearchStatus limit = options.limitReached(explored, SearchOptions.CLOCK_CHECK_MASK);
+                    if (limit != null) {
+                        return stopped(limit, bestPath, explored, explored);
+                    }
                     visited.add(currNode);
-                    for (DefaultEdge edge : graph.outgoingEdgesOf(currNode)) {
-                        String targetNode = graph.getEdgeTarget(edge);
+                    explored++;
+                    if (currPath.size() > bestPath.size()) {
+                        bestPath = currPath;
+                    }
+                    for (DefaultEdge edge : g.outgoingEdgesOf(currNode)) {
+                        String targetNode = g.getEdgeTarget(edge);
                         if (!visited.contains(targetNode)) {
                             List<String> newPath = new ArrayList<>(currPath);
                             newPath.add(targetNode);
@@ -299,7 +611,16 @@ public class DotGraph {
                 }
             }
             System.out.println("Error: Path was not found between " + src + " and " + dst + "!");
-            return null;
+            return new SearchResult(SearchStatus.NOT_FOUND, null, explored, explored);
+        }
+
+        //builds the partial result returned when a search limit is hit
+        static SearchResult stopped(SearchStatus limit, List<String> bestPath, int nodesExplored, int expansions) {
+            Path path = new Path();
+            path.nodes = new ArrayList<>(bestPath);
+            System.out.println("Search stopped (" + limit + ") after exploring " + nodesExplored + " nodes in "
+                    + expansions + " expansions");
+            return new SearchResult(limit, path, nodesExplored, expansions);
         }
 
         //Abstract Methods for template design pattern
@@ -382,43 +703,84 @@ public class DotGraph {
 
 
        @Override
-       public Path traverse(String src, String dst){
+       public SearchResult traverse(Graph<String, DefaultEdge> g, String src, String dst, SearchOptions options){
            random = new Random();
            Path path = new Path();
+           //position of each node on the current walk, used to erase loops
+           Map<String, Integer> onPath = new HashMap<>();
+           List<String> bestPath = new ArrayList<>();
+           Set<String> explored = new HashSet<>();
+           int steps = 0;
+           //printing the whole path on every step grows with the walk, so bounded searches skip it
+           boolean printSteps = !options.isBounded();
            while(true){
                //clear path nodes for multiple testings
                path.nodes.clear();
+               onPath.clear();
                //add source node to path
                path.nodes.add(src);
-               System.out.println("visiting " + path.randomToString());
+               onPath.put(src, 0);
+               if (printSteps) {
+                   System.out.println("visiting " + path.randomToString());
+               }
                String currNode = src;
+               //source is already the destination
+               if(currNode.equals(dst)){
+                   return new SearchResult(SearchStatus.FOUND, path, explored.size(), steps);
+               }
 
 
-               //loop indefinitely
+               //loop until the destination is found or a search limit is hit
                while(!currNode.equals(dst)){
-                   Set<DefaultEdge> edges = graph.outgoingEdgesOf(currNode);
+                   //a clock read is cheap next to a walk step, so check the deadline on every step
+                   SearchStatus limit = options.limitReached(steps, 0);
+                   if (limit != null) {
+                       if (path.nodes.size() > bestPath.size()) {
+                           bestPath = path.nodes;
+                       }
+                       return stopped(limit, bestPath, explored.size(), steps);
+                   }
+                   explored.add(currNode);
+                   steps++;
+                   Set<DefaultEdge> edges = g.outgoingEdgesOf(currNode);
                    List<String> neighbors = new ArrayList<>();
 
 
                    //add all neighbors for the current node to the list of neighbors
                    for (DefaultEdge edge : edges) {
-                       String targetNode = graph.getEdgeTarget(edge);
+                       String targetNode = g.getEdgeTarget(edge);
                        neighbors.add(targetNode);
                    }
                    
                    //if there are no neighbors (cannot go further), reset the search
                    if(neighbors.isEmpty()){
+                       if (path.nodes.size() > bestPath.size()) {
+                           bestPath = new ArrayList<>(path.nodes);
+                       }
                        break;
                    }
                    
                    //select a random neighbor from the list of neighbors
                    currNode = neighbors.get(random.nextInt(neighbors.size()));
-                   path.nodes.add(currNode);
-                   System.out.println("visiting " + path.randomToString() + " ");
+                   //returning to a node already on the walk erases the loop, so the path stays
+                   //simple and never grows past the number of nodes
+                   Integer loopStart = onPath.get(currNode);
+                   if (loopStart != null) {
+                       for (int i = loopStart + 1; i < path.nodes.size(); i++) {
+                           onPath.remove(path.nodes.get(i));
+                       }
+                       path.nodes.subList(loopStart + 1, path.nodes.size()).clear();
+                   } else {
+                       onPath.put(currNode, path.nodes.size());
+                       path.nodes.add(currNode);
+                   }
+                   if (printSteps) {
+                       System.out.println("visiting " + path.randomToString() + " ");
+                   }
                    //destination node is found
                    if(currNode.equals(dst)){
                        System.out.println(path.randomToString());
-                       return path;
+                       return new SearchResult(SearchStatus.FOUND, path, explored.size(), steps);
                    }
                }
            }
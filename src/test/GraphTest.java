@@ -9,7 +9,11 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import static org.junit.Assert.*;
 
@@ -239,4 +243,209 @@ public class GraphTest {
         String dst = "z";
         DotGraph.Path result = DotGraph.GraphSearch(src, dst, algo);
     }
+
+    @Test
+    public void subgraphTest() throws IOException {
+        //view filtered by predicate
+        DotGraph.GraphView view = DotGraph.subgraph(node -> !node.equals("h"));
+        assertEquals(7, view.getNodes());
+        assertEquals(7, view.getEdges());
+        assertFalse("Node 'h' should be hidden by the view", view.containsNode("h"));
+
+        //view filtered by node set
+        view = DotGraph.subgraph(new HashSet<>(Arrays.asList("a", "b", "e")));
+        assertEquals(3, view.getNodes());
+        assertEquals(2, view.getEdges());
+        assertNotNull("Path between 'a' and 'e' should exist in the view", view.GraphSearch("a", "e", DotGraph.Algorithm.BFS));
+
+        //base graph is left untouched
+        assertEquals(8, DotGraph.getNodes());
+        assertEquals(9, DotGraph.getEdges());
+
+        //views follow later edits to the base graph
+        DotGraph.addEdge("a", "e");
+        assertEquals(3, view.getEdges());
+    }
+
+    @Test
+    public void neighborhoodTest() throws IOException {
+        DotGraph.GraphView view = DotGraph.neighborhood("a", 2, DotGraph.Direction.OUT);
+        assertEquals(7, view.getNodes());
+        assertEquals(7, view.getEdges());
+        assertFalse("Node 'h' is three hops from 'a'", view.containsNode("h"));
+        assertNull("Path between 'b' and 'c' should not exist in the view", view.GraphSearch("b", "c", DotGraph.Algorithm.BFS));
+        assertEquals("a->c->f", view.GraphSearch("a", "f", DotGraph.Algorithm.BFS).toString());
+
+        view = DotGraph.neighborhood("f", 1, DotGraph.Direction.IN);
+        assertEquals(4, view.getNodes());
+        assertEquals(3, view.getEdges());
+
+        view = DotGraph.neighborhood("d", 1, DotGraph.Direction.BOTH);
+        assertEquals(3, view.getNodes());
+        assertEquals(2, view.getEdges());
+
+        view = DotGraph.neighborhood("a", 0, DotGraph.Direction.OUT);
+        assertEquals(1, view.getNodes());
+        assertEquals(0, view.getEdges());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void neighborhoodBadCenterTest() {
+        DotGraph.neighborhood("z", 2, DotGraph.Direction.OUT);
+    }
+
+    @Test
+    public void materializeTest() throws IOException {
+        DotGraph.GraphView copy = DotGraph.neighborhood("a", 1, DotGraph.Direction.OUT).materialize();
+        assertEquals(4, copy.getNodes());
+        assertEquals(3, copy.getEdges());
+
+        //copy no longer tracks the base graph
+        DotGraph.addEdge("b", "c");
+        assertEquals(3, copy.getEdges());
+
+        String filePath = "subgraph.dot";
+        copy.outputDOTGraph(filePath);
+        File outputFile = new File(filePath);
+        assertTrue("The output file was not created.", outputFile.exists());
+        assertTrue("Output DOT file empty!", outputFile.length() > 0);
+        assertFalse("Subgraph string should not be empty", copy.graphtoString().isEmpty());
+    }
+
+    @Test
+    public void materializeInducedEdgesTest() {
+        //b -> c lies inside the 1-hop neighborhood of 'a', b -> e and c -> f leave it
+        DotGraph.addEdge("b", "c");
+        DotGraph.GraphView copy = DotGraph.neighborhood("a", 1, DotGraph.Direction.OUT).materialize();
+
+        Set<String> edges = new HashSet<>();
+        for (String line : copy.graphtoString().split("\n")) {
+            if (line.contains("->")) {
+                edges.add(line);
+            }
+        }
+        Set<String> expected = new HashSet<>(Arrays.asList("a -> b;", "a -> c;", "a -> d;", "b -> c;"));
+        assertEquals(expected, edges);
+    }
+
+    @Test
+    public void subgraphCopiesNodeSetTest() {
+        Set<String> nodeSet = new HashSet<>(Arrays.asList("a", "b"));
+        DotGraph.GraphView view = DotGraph.subgraph(nodeSet);
+        nodeSet.add("e");
+        assertEquals(2, view.getNodes());
+        assertFalse("Later changes to the node set should not reach the view", view.containsNode("e"));
+    }
+
+    @Test
+    public void neighborhoodOrderTest() {
+        DotGraph.GraphView view = DotGraph.neighborhood("a", 2, DotGraph.Direction.OUT);
+        String nodeList = view.graphtoString().split("Edge List")[0];
+        assertEquals("Node List: \na;\nb;\nc;\nd;\ne;\nf;\ng;\n", nodeList);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void neighborhoodNullDirectionTest() {
+        DotGraph.neighborhood("a", 2, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void subgraphNullPredicateTest() {
+        DotGraph.subgraph((Predicate<String>) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void subgraphNullNodeSetTest() {
+        DotGraph.subgraph((Set<String>) null);
+    }
+
+    @Test
+    public void GraphSearchLimitTest() throws IOException {
+        //no limits behaves like the plain search
+        DotGraph.SearchResult result = DotGraph.GraphSearch("a", "f", DotGraph.Algorithm.BFS, new DotGraph.SearchOptions());
+        assertEquals(DotGraph.SearchStatus.FOUND, result.getStatus());
+        assertEquals("a->c->f", result.getPath().toString());
+
+        //unreachable destination reports not found instead of a partial path
+        result = DotGraph.GraphSearch("d", "a", DotGraph.Algorithm.DFS, new DotGraph.SearchOptions().withMaxExpansions(100));
+        assertEquals(DotGraph.SearchStatus.NOT_FOUND, result.getStatus());
+        assertNull(result.getPath());
+        assertEquals(4, result.getNodesExplored());
+
+        //expansion limit
+        result = DotGraph.GraphSearch("a", "h", DotGraph.Algorithm.BFS, new DotGraph.SearchOptions().withMaxExpansions(2));
+        assertEquals(DotGraph.SearchStatus.EXPANSION_LIMIT, result.getStatus());
+        assertEquals(2, result.getNodesExplored());
+        assertEquals("a->b", result.getPath().toString());
+
+        //deadline already passed
+        result = DotGraph.GraphSearch("a", "h", DotGraph.Algorithm.DFS, new DotGraph.SearchOptions().withDeadline(System.nanoTime() - 1));
+        assertEquals(DotGraph.SearchStatus.TIMED_OUT, result.getStatus());
+        assertEquals("a", result.getPath().toString());
+
+        //cancelled before the search starts
+        DotGraph.CancellationToken token = new DotGraph.CancellationToken();
+        token.cancel();
+        result = DotGraph.GraphSearch("a", "h", DotGraph.Algorithm.BFS, new DotGraph.SearchOptions().withCancellation(token));
+        assertEquals(DotGraph.SearchStatus.CANCELLED, result.getStatus());
+        assertEquals(0, result.getNodesExplored());
+    }
+
+    @Test
+    public void randomSearchLimitTest() throws IOException {
+        //random walk toward an unreachable node stops at the expansion limit
+        DotGraph.SearchResult result = DotGraph.GraphSearch("d", "a", DotGraph.Algorithm.Random, new DotGraph.SearchOptions().withMaxExpansions(50));
+        assertEquals(DotGraph.SearchStatus.EXPANSION_LIMIT, result.getStatus());
+        assertEquals(50, result.getExpansions());
+        assertEquals(4, result.getNodesExplored());
+        assertEquals("d->g->h->f", result.getPath().toString());
+
+        //and at the deadline
+        result = DotGraph.GraphSearch("d", "a", DotGraph.Algorithm.Random, new DotGraph.SearchOptions().withTimeout(50));
+        assertEquals(DotGraph.SearchStatus.TIMED_OUT, result.getStatus());
+        assertTrue(result.getExpansions() > 0);
+        assertTrue(result.getNodesExplored() <= 4);
+
+        //BFS/DFS count every expanded node once
+        result = DotGraph.GraphSearch("a", "h", DotGraph.Algorithm.BFS, new DotGraph.SearchOptions().withMaxExpansions(3));
+        assertEquals(result.getNodesExplored(), result.getExpansions());
+    }
+
+    @Test
+    public void randomSearchCycleTimeoutTest() {
+        //p <-> q never dead-ends, so the walk runs until the deadline
+        DotGraph.addEdge("p", "q");
+        DotGraph.addEdge("q", "p");
+        DotGraph.SearchResult result = DotGraph.GraphSearch("p", "a", DotGraph.Algorithm.Random, new DotGraph.SearchOptions().withTimeout(100));
+
+        assertEquals(DotGraph.SearchStatus.TIMED_OUT, result.getStatus());
+        assertEquals(2, result.getNodesExplored());
+        assertTrue(result.getExpansions() > 0);
+        //loops are erased, so the partial path stays simple however long the walk ran
+        assertTrue("Partial path should be loop-free: " + result.getPath(), result.getPath().nodes.size() <= 2);
+    }
+
+    @Test
+    public void randomSearchLoopErasedTest() throws IOException {
+        //a -> b -> c -> d -> a is a cycle, but every path the walk finds is simple
+        file = "input.dot";
+        filepath = getClass().getResource(file).getPath();
+        DotGraph.parseGraph(filepath);
+        for (int i = 0; i < 5; i++) {
+            DotGraph.Path result = DotGraph.GraphSearch("a", "h", DotGraph.Algorithm.Random);
+            assertEquals(result.nodes.size(), new HashSet<>(result.nodes).size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void GraphSearchNullOptionsTest() {
+        DotGraph.GraphSearch("a", "f", DotGraph.Algorithm.BFS, null);
+    }
+
+    @Test
+    public void searchDeadlineSentinelTest() {
+        //any nanoTime value is a real deadline, including Long.MAX_VALUE
+        assertFalse(new DotGraph.SearchOptions().isBounded());
+        assertTrue(new DotGraph.SearchOptions().withDeadline(Long.MAX_VALUE).isBounded());
+    }
 }